@@ -63,13 +63,12 @@ public interface BloomFilter<T> {
     long approximateElementCount();
 
     /**
-     * Serializes the Bloom filter's internal BitSet to a byte array.
+     * Serializes the Bloom filter's internal state to a byte array.
      *
      * <p>This method can be used to persist the state of the Bloom filter
-     * or transmit it over a network. The serialization format used is Java's
-     * built-in object serialization (i.e., {@link java.io.ObjectOutputStream}),
-     * so the resulting byte array can be deserialized using a compatible method
-     * like {@code fromBytes(byte[])}.
+     * or transmit it over a network. The serialization format is defined by
+     * each implementation, and the resulting byte array can be deserialized
+     * with that implementation's {@code fromBytes(byte[])} method.
      *
      * @return a byte array representing the serialized form of the Bloom filter
      * @throws IOException if an I/O error occurs during serialization
@@ -1,8 +1,11 @@
 package io.github.gbessonov.bloom.hashing;
 
-import io.github.gbessonov.bloom.HashCode;
 import io.github.gbessonov.bloom.HashFunction;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Objects;
+
 /**
  * Fast implementation of MurmurHash3 (x64 128-bit variant),
  * optimized for streaming usage and performance.
@@ -29,7 +32,7 @@ public class Murmur3f implements HashFunction {
     }
 
     @Override
-    public HashFunction include(byte[] input) {
+    public Murmur3f include(byte[] input) {
         int offset = 0;
         int inputLength = input.length;
         length += inputLength;
@@ -67,8 +70,64 @@ public class Murmur3f implements HashFunction {
         return this;
     }
 
+    /**
+     * Feeds a slice of the given buffer into the hash function without copying it.
+     *
+     * <p>Bytes are read with absolute gets, so the buffer's position, limit and byte
+     * order are left untouched. This allows hashing keys in place, e.g. directly from
+     * a memory-mapped file.
+     *
+     * @param input       the buffer holding the bytes to include
+     * @param offset      the absolute index of the first byte to include
+     * @param inputLength the number of bytes to include
+     * @return this instance for method chaining
+     * @throws IndexOutOfBoundsException if the slice is not within the buffer's limit
+     */
+    public Murmur3f include(ByteBuffer input, int offset, int inputLength) {
+        Objects.checkFromIndexSize(offset, inputLength, input.limit());
+        boolean bigEndian = input.order() == ByteOrder.BIG_ENDIAN;
+        int end = offset + inputLength;
+        length += inputLength;
+
+        // Fill leftover buffer if needed
+        if (tailLength > 0) {
+            int needed = 16 - tailLength;
+            if (inputLength < needed) {
+                input.get(offset, tailBuffer, tailLength, inputLength);
+                tailLength += inputLength;
+                return this;
+            } else {
+                input.get(offset, tailBuffer, tailLength, needed);
+                bmix64(getLittleEndianLong(tailBuffer, 0), getLittleEndianLong(tailBuffer, 8));
+                offset += needed;
+                tailLength = 0;
+            }
+        }
+
+        // Process full 16-byte blocks directly from input
+        int limit = end - ((end - offset) % 16);
+        while (offset < limit) {
+            long k1 = input.getLong(offset);
+            long k2 = input.getLong(offset + 8);
+            if (bigEndian) {
+                k1 = Long.reverseBytes(k1);
+                k2 = Long.reverseBytes(k2);
+            }
+            bmix64(k1, k2);
+            offset += 16;
+        }
+
+        // Store remaining tail bytes
+        tailLength = end - offset;
+        if (tailLength > 0) {
+            input.get(offset, tailBuffer, 0, tailLength);
+        }
+
+        return this;
+    }
+
     @Override
-    public HashCode hash() {
+    public Murmur3fHashCode hash() {
         processRemaining();
         return prepareHashCode(h1, h2, length);
     }
@@ -153,7 +212,7 @@ public class Murmur3f implements HashFunction {
         return k;
     }
 
-    private static HashCode prepareHashCode(long h1, long h2, int length) {
+    private static Murmur3fHashCode prepareHashCode(long h1, long h2, int length) {
         h1 ^= length;
         h2 ^= length;
 
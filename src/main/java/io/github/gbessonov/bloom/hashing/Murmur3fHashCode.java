@@ -26,6 +26,24 @@ public class Murmur3fHashCode implements HashCode {
         this.h2 = h2;
     }
 
+    /**
+     * Returns the low 64 bits of the hash.
+     *
+     * @return the low 64 bits of the hash
+     */
+    public long getLowBits() {
+        return h1;
+    }
+
+    /**
+     * Returns the high 64 bits of the hash.
+     *
+     * @return the high 64 bits of the hash
+     */
+    public long getHighBits() {
+        return h2;
+    }
+
     /**
      * Returns the 128-bit hash code as a 16-byte array in big-endian order.
      * The high 64 bits (h2) come first, followed by the low 64 bits (h1).
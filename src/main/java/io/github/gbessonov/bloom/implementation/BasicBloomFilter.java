@@ -59,6 +59,11 @@ public class BasicBloomFilter<T> implements BloomFilter<T> {
         return (long) (-m * Math.log(X / m) / 2);
     }
 
+    /**
+     * Serializes the internal {@link BitSet} using Java's built-in object serialization
+     * (i.e., {@link ObjectOutputStream}); see {@link #fromBytes(byte[])}.
+     */
+    @Override
     public byte[] toBytes() throws IOException {
         try (
                 ByteArrayOutputStream out = new ByteArrayOutputStream();
@@ -0,0 +1,283 @@
+package io.github.gbessonov.bloom.implementation;
+
+import io.github.gbessonov.bloom.BloomFilter;
+import io.github.gbessonov.bloom.hashing.Murmur3f;
+import io.github.gbessonov.bloom.hashing.Murmur3fHashCode;
+
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+
+/**
+ * A non-thread-safe Bloom filter over raw byte keys, sized for a given number of
+ * expected insertions and false positive probability.
+ *
+ * <p>Keys are hashed with {@link Murmur3f} and the {@code k} bit indexes are derived
+ * from the two 64-bit halves of the hash using double hashing. Keys can also be
+ * inserted straight from a {@link ByteBuffer} slice, which avoids materializing a
+ * {@code byte[]} per key. Filters of the same shape can be combined with
+ * {@link #merge(Murmur3fBloomFilter)}.
+ */
+public class Murmur3fBloomFilter implements BloomFilter<byte[]> {
+    private static final long MAX_BIT_COUNT = (long) (Integer.MAX_VALUE - 8) * Long.SIZE;
+    private static final int HEADER_SIZE = Long.BYTES + Integer.BYTES;
+    private static final int MAX_ARRAY_SIZE = Integer.MAX_VALUE - 8;
+    private static final int READ_BUFFER_SIZE = 1 << 16;
+    private static final int INITIAL_READ_WORDS = 1 << 20;
+
+    private final long[] words;
+    private final long bitCount;
+    private final int numHashFunctions;
+    private final Murmur3f hashFunction = new Murmur3f();
+
+    /**
+     * Creates a filter sized to hold {@code expectedInsertions} keys at roughly
+     * the given false positive probability.
+     *
+     * @param expectedInsertions the number of keys the filter is expected to hold
+     * @param fpp                the desired false positive probability, in range (0, 1)
+     * @throws IllegalArgumentException if the filter would need more than
+     *                                  {@code (Integer.MAX_VALUE - 8) * 64} bits
+     */
+    public Murmur3fBloomFilter(long expectedInsertions, double fpp) {
+        if (expectedInsertions <= 0) {
+            throw new IllegalArgumentException("expectedInsertions must be positive");
+        }
+        if (!(fpp > 0 && fpp < 1)) {
+            throw new IllegalArgumentException("fpp must be in range (0, 1)");
+        }
+        long optimalBits = (long) Math.ceil(-expectedInsertions * Math.log(fpp) / (Math.log(2) * Math.log(2)));
+        if (optimalBits > MAX_BIT_COUNT) {
+            throw new IllegalArgumentException("filter for " + expectedInsertions + " insertions at fpp " + fpp
+                    + " needs " + optimalBits + " bits, more than the maximum of " + MAX_BIT_COUNT);
+        }
+        this.bitCount = roundUpToWord(optimalBits);
+        this.numHashFunctions = Math.max(1, (int) Math.round((double) bitCount / expectedInsertions * Math.log(2)));
+        this.words = new long[(int) (bitCount / Long.SIZE)];
+    }
+
+    private Murmur3fBloomFilter(long bitCount, int numHashFunctions, long[] words) {
+        this.bitCount = bitCount;
+        this.numHashFunctions = numHashFunctions;
+        this.words = words;
+    }
+
+    /**
+     * Creates an empty filter with the same size and number of hash functions as this one.
+     *
+     * @return a new empty filter that can later be merged into this one
+     */
+    public Murmur3fBloomFilter emptyCopy() {
+        return new Murmur3fBloomFilter(bitCount, numHashFunctions, new long[words.length]);
+    }
+
+    /**
+     * Returns the size of the filter's bit array in bytes.
+     *
+     * @return the number of bytes taken by the bit array
+     */
+    public long sizeInBytes() {
+        return words.length * (long) Long.BYTES;
+    }
+
+    @Override
+    public boolean mightContain(byte[] object) {
+        hashFunction.reset(0);
+        return mightContain(hashFunction.include(object).hash());
+    }
+
+    /**
+     * Tests whether the key stored in the given buffer slice might have been added.
+     *
+     * @param buffer the buffer holding the key
+     * @param offset the absolute index of the first key byte
+     * @param length the key length in bytes
+     * @return {@code true} if the key might be present, {@code false} if definitely not
+     */
+    public boolean mightContain(ByteBuffer buffer, int offset, int length) {
+        hashFunction.reset(0);
+        return mightContain(hashFunction.include(buffer, offset, length).hash());
+    }
+
+    @Override
+    public void put(byte[] object) {
+        hashFunction.reset(0);
+        put(hashFunction.include(object).hash());
+    }
+
+    /**
+     * Adds the key stored in the given buffer slice without copying it.
+     *
+     * @param buffer the buffer holding the key
+     * @param offset the absolute index of the first key byte
+     * @param length the key length in bytes
+     */
+    public void put(ByteBuffer buffer, int offset, int length) {
+        hashFunction.reset(0);
+        put(hashFunction.include(buffer, offset, length).hash());
+    }
+
+    /**
+     * Adds every key of {@code other} to this filter.
+     *
+     * @param other a filter of the same size and number of hash functions
+     */
+    public void merge(Murmur3fBloomFilter other) {
+        if (other.bitCount != bitCount || other.numHashFunctions != numHashFunctions) {
+            throw new IllegalArgumentException("cannot merge filters of different shapes");
+        }
+        for (int i = 0; i < words.length; i++) {
+            words[i] |= other.words[i];
+        }
+    }
+
+    @Override
+    public double expectedFpp() {
+        return Math.pow(utilization(), numHashFunctions);
+    }
+
+    @Override
+    public double utilization() {
+        return (double) cardinality() / bitCount;
+    }
+
+    @Override
+    public long approximateElementCount() {
+        double m = bitCount;
+        double X = m - cardinality();
+        return (long) (-m * Math.log(X / m) / numHashFunctions);
+    }
+
+    /**
+     * Serializes the filter into the binary format written by {@link #writeTo(OutputStream)}.
+     *
+     * <p>Only filters whose serialized form fits into a single array (just under 2 GiB)
+     * can be serialized this way; use {@link #writeTo(OutputStream)} for larger ones.
+     *
+     * @throws IllegalStateException if the filter is too large for a byte array
+     */
+    @Override
+    public byte[] toBytes() throws IOException {
+        if (words.length * (long) Long.BYTES + HEADER_SIZE > MAX_ARRAY_SIZE) {
+            throw new IllegalStateException("filter of " + bitCount + " bits is too large for a byte array, "
+                    + "use writeTo(OutputStream) instead");
+        }
+        try (ByteArrayOutputStream out = new ByteArrayOutputStream()) {
+            writeTo(out);
+            return out.toByteArray();
+        }
+    }
+
+    /**
+     * Writes the filter to the given stream as the bit count ({@code long}), the number
+     * of hash functions ({@code int}) and the bit array words ({@code long} each),
+     * all big-endian. The stream is flushed but not closed.
+     *
+     * @param out the stream to write to
+     * @throws IOException if an I/O error occurs
+     */
+    public void writeTo(OutputStream out) throws IOException {
+        DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out, 1 << 16));
+        data.writeLong(bitCount);
+        data.writeInt(numHashFunctions);
+        for (long word : words) {
+            data.writeLong(word);
+        }
+        data.flush();
+    }
+
+    public static Murmur3fBloomFilter fromBytes(byte[] data) throws IOException {
+        if (data == null) {
+            throw new IllegalArgumentException("data cannot be null");
+        }
+        if (data.length >= HEADER_SIZE) {
+            long bitCount = ByteBuffer.wrap(data).getLong(0);
+            if (bitCount > 0 && bitCount / Byte.SIZE > data.length - HEADER_SIZE) {
+                throw new IOException("data is truncated: header declares " + bitCount + " bits but only "
+                        + (data.length - HEADER_SIZE) + " bytes follow");
+            }
+        }
+        try (InputStream input = new ByteArrayInputStream(data)) {
+            return readFrom(input);
+        }
+    }
+
+    /**
+     * Reads a filter previously written by {@link #writeTo(OutputStream)}.
+     *
+     * <p>Exactly the bytes of one filter are consumed, so the stream can hold further
+     * data after it. The stream is not buffered by this method; callers reading from
+     * files should wrap it in a {@link BufferedInputStream}.
+     *
+     * <p>The header is not trusted for allocation: the bit array starts small and grows
+     * only as words actually arrive, so a corrupt or truncated header fails with an
+     * {@link EOFException} instead of allocating the declared size up front.
+     *
+     * @param in the stream to read from
+     * @return the deserialized filter
+     * @throws IOException if an I/O error occurs or the stream is truncated
+     */
+    public static Murmur3fBloomFilter readFrom(InputStream in) throws IOException {
+        DataInputStream data = new DataInputStream(in);
+        long bitCount = data.readLong();
+        int numHashFunctions = data.readInt();
+        if (bitCount <= 0 || bitCount > MAX_BIT_COUNT || bitCount % Long.SIZE != 0) {
+            throw new IOException("invalid bit count: " + bitCount);
+        }
+        if (numHashFunctions <= 0) {
+            throw new IOException("invalid number of hash functions: " + numHashFunctions);
+        }
+        int wordCount = (int) (bitCount / Long.SIZE);
+        long[] words = new long[Math.min(wordCount, INITIAL_READ_WORDS)];
+        byte[] chunk = new byte[(int) Math.min(READ_BUFFER_SIZE, wordCount * (long) Long.BYTES)];
+        LongBuffer chunkWords = ByteBuffer.wrap(chunk).asLongBuffer();
+        int index = 0;
+        while (index < wordCount) {
+            if (index == words.length) {
+                words = Arrays.copyOf(words, (int) Math.min(wordCount, words.length * 2L));
+            }
+            int count = Math.min(chunk.length / Long.BYTES, words.length - index);
+            data.readFully(chunk, 0, count * Long.BYTES);
+            chunkWords.clear();
+            chunkWords.get(words, index, count);
+            index += count;
+        }
+        return new Murmur3fBloomFilter(bitCount, numHashFunctions, words);
+    }
+
+    private void put(Murmur3fHashCode hash) {
+        long combinedHash = hash.getLowBits();
+        long step = hash.getHighBits();
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = (combinedHash & Long.MAX_VALUE) % bitCount;
+            words[(int) (index >>> 6)] |= 1L << index;
+            combinedHash += step;
+        }
+    }
+
+    private boolean mightContain(Murmur3fHashCode hash) {
+        long combinedHash = hash.getLowBits();
+        long step = hash.getHighBits();
+        for (int i = 0; i < numHashFunctions; i++) {
+            long index = (combinedHash & Long.MAX_VALUE) % bitCount;
+            if ((words[(int) (index >>> 6)] & (1L << index)) == 0) {
+                return false;
+            }
+            combinedHash += step;
+        }
+        return true;
+    }
+
+    private long cardinality() {
+        long count = 0;
+        for (long word : words) {
+            count += Long.bitCount(word);
+        }
+        return count;
+    }
+
+    private static long roundUpToWord(long bits) {
+        return Math.max(Long.SIZE, (bits + Long.SIZE - 1) / Long.SIZE * Long.SIZE);
+    }
+}
@@ -0,0 +1,296 @@
+package io.github.gbessonov.bloom.loader;
+
+import io.github.gbessonov.bloom.implementation.Murmur3fBloomFilter;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Builds a {@link Murmur3fBloomFilter} from a newline-delimited key file in parallel.
+ *
+ * <p>The file is split on line boundaries into chunks that are memory-mapped and
+ * hashed in place by a pool of worker threads, so no {@code String} or {@code byte[]}
+ * is created per key. Each worker fills its own filter; the worker filters are merged
+ * once all chunks are consumed. As every worker needs its own filter-sized bit array,
+ * the number of workers is capped by the free heap.
+ *
+ * <p>Lines are split on {@code '\n'}; a trailing {@code '\r'} is stripped and empty
+ * lines are skipped. Keys are inserted as their raw bytes, so a key can later be
+ * looked up with {@link Murmur3fBloomFilter#mightContain(byte[])} on its encoded bytes.
+ */
+public final class BulkLoader {
+    private static final long MIN_CHUNK_SIZE = 1L << 20;
+    private static final long MAX_CHUNK_SIZE = 1L << 30;
+    private static final int CHUNKS_PER_THREAD = 4;
+    private static final int SCAN_BUFFER_SIZE = 1 << 16;
+    private static final long HEAP_HEADROOM = 64L << 20;
+
+    private BulkLoader() {
+    }
+
+    /**
+     * The outcome of a {@link #load(Path, long, double, int)} call.
+     *
+     * @param filter      the merged filter holding every key of the file
+     * @param keyCount    the number of keys inserted
+     * @param byteCount   the size of the input file in bytes
+     * @param workerCount the number of worker threads actually started, at most one per chunk
+     * @param workerLimit the number of per-worker filters that fit into the free heap
+     * @param elapsed     the wall-clock time spent mapping, hashing and merging
+     */
+    public record Result(Murmur3fBloomFilter filter, long keyCount, long byteCount, int workerCount,
+                         int workerLimit, Duration elapsed) {
+        public double keysPerSecond() {
+            return keyCount / seconds();
+        }
+
+        public double megabytesPerSecond() {
+            return byteCount / (1024.0 * 1024.0) / seconds();
+        }
+
+        private double seconds() {
+            return Math.max(elapsed.toNanos(), 1) / 1e9;
+        }
+    }
+
+    /**
+     * Loads every key of {@code input} into a new filter.
+     *
+     * @param input              the newline-delimited key file
+     * @param expectedInsertions the number of keys the filter is sized for
+     * @param fpp                the desired false positive probability
+     * @param threads            the maximum number of worker threads; fewer are started if the
+     *                           file has fewer chunks or the heap cannot hold that many filters
+     * @return the filter together with load statistics
+     * @throws IOException if the file cannot be read or contains a line too long to be mapped; a chunk
+     *                     starting up to 1 GiB before the line must fit into {@code Integer.MAX_VALUE} bytes
+     */
+    public static Result load(Path input, long expectedInsertions, double fpp, int threads) throws IOException {
+        if (threads <= 0) {
+            throw new IllegalArgumentException("threads must be positive");
+        }
+        long start = System.nanoTime();
+        var prototype = new Murmur3fBloomFilter(expectedInsertions, fpp);
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            List<long[]> chunks = split(channel, size, threads);
+            Runtime runtime = Runtime.getRuntime();
+            long freeHeap = runtime.maxMemory() - (runtime.totalMemory() - runtime.freeMemory());
+            int workerLimit = workerLimit(prototype.sizeInBytes(), freeHeap);
+            int workerCount = Math.max(1, Math.min(Math.min(threads, chunks.size()), workerLimit));
+
+            ExecutorService executor = Executors.newFixedThreadPool(workerCount);
+            try {
+                AtomicInteger nextChunk = new AtomicInteger();
+                List<Future<Worker>> futures = new ArrayList<>(workerCount);
+                for (int i = 0; i < workerCount; i++) {
+                    var worker = new Worker(channel, chunks, nextChunk,
+                            i == 0 ? prototype : prototype.emptyCopy());
+                    futures.add(executor.submit(worker::call));
+                }
+
+                long keyCount = 0;
+                for (var future : futures) {
+                    Worker worker = await(future);
+                    keyCount += worker.keyCount;
+                    if (worker.filter != prototype) {
+                        prototype.merge(worker.filter);
+                    }
+                }
+                return new Result(prototype, keyCount, size, workerCount, workerLimit,
+                        Duration.ofNanos(System.nanoTime() - start));
+            } finally {
+                executor.shutdownNow();
+            }
+        }
+    }
+
+    /**
+     * Loads {@code input} and writes the resulting filter to {@code output}
+     * in the format of {@link Murmur3fBloomFilter#writeTo(OutputStream)}.
+     *
+     * @return the load statistics; {@code elapsed} includes writing the output
+     */
+    public static Result load(Path input, Path output, long expectedInsertions, double fpp, int threads)
+            throws IOException {
+        long start = System.nanoTime();
+        Result result = load(input, expectedInsertions, fpp, threads);
+        try (OutputStream out = Files.newOutputStream(output)) {
+            result.filter().writeTo(out);
+        }
+        return new Result(result.filter(), result.keyCount(), result.byteCount(), result.workerCount(),
+                result.workerLimit(), Duration.ofNanos(System.nanoTime() - start));
+    }
+
+    public static void main(String[] args) throws IOException {
+        if (args.length < 3 || args.length > 5) {
+            exitWithUsage(null);
+        }
+        Result result;
+        int threads;
+        try {
+            Path input = Path.of(args[0]);
+            Path output = Path.of(args[1]);
+            long expectedInsertions = Long.parseLong(args[2]);
+            double fpp = args.length > 3 ? Double.parseDouble(args[3]) : 0.01;
+            threads = args.length > 4 ? Integer.parseInt(args[4]) : Runtime.getRuntime().availableProcessors();
+
+            result = load(input, output, expectedInsertions, fpp, threads);
+        } catch (IllegalArgumentException e) {
+            exitWithUsage(e.getMessage());
+            return;
+        }
+
+        System.out.printf("Keys:        %,d%n", result.keyCount());
+        System.out.printf("Input:       %,.1f MiB%n", result.byteCount() / (1024.0 * 1024.0));
+        System.out.printf("Filter:      %,.1f MiB per worker%n", result.filter().sizeInBytes() / (1024.0 * 1024.0));
+        System.out.printf("Workers:     %d (%d requested, %d fit in heap)%n",
+                result.workerCount(), threads, result.workerLimit());
+        System.out.printf("Total time:  %.3f s%n", result.elapsed().toNanos() / 1e9);
+        System.out.printf("Throughput:  %,.0f keys/s, %,.1f MiB/s%n",
+                result.keysPerSecond(), result.megabytesPerSecond());
+        System.out.printf("Utilization: %.4f, expected fpp: %.6f%n",
+                result.filter().utilization(), result.filter().expectedFpp());
+    }
+
+    private static void exitWithUsage(String error) {
+        if (error != null) {
+            System.err.println("Error: " + error);
+        }
+        System.err.println("Usage: java -jar bloom-1.0.0.jar <input> <output> <expectedInsertions> [fpp] [threads]");
+        System.err.println("  fpp defaults to 0.01, threads to the number of available processors");
+        System.exit(2);
+    }
+
+    /**
+     * Returns how many workers can run given that one filter is already allocated and
+     * every further worker needs a copy of {@code filterBytes}.
+     */
+    static int workerLimit(long filterBytes, long freeHeap) {
+        long copies = Math.max(0, freeHeap - HEAP_HEADROOM) / Math.max(1, filterBytes);
+        return (int) Math.min(Integer.MAX_VALUE, 1 + copies);
+    }
+
+    /**
+     * Splits the file into {@code [start, end)} ranges that each end right after a
+     * {@code '\n'} (or at end of file) and fit into a single mapped buffer.
+     */
+    static List<long[]> split(FileChannel channel, long size, int threads) throws IOException {
+        long target = Math.min(MAX_CHUNK_SIZE,
+                Math.max(MIN_CHUNK_SIZE, size / ((long) threads * CHUNKS_PER_THREAD)));
+        List<long[]> chunks = new ArrayList<>();
+        ByteBuffer scanBuffer = ByteBuffer.allocate(SCAN_BUFFER_SIZE);
+        long start = 0;
+        while (start < size) {
+            long end = start + target >= size ? size : lineEnd(channel, start, start + target, size, scanBuffer);
+            chunks.add(new long[]{start, end});
+            start = end;
+        }
+        return chunks;
+    }
+
+    private static long lineEnd(FileChannel channel, long chunkStart, long from, long size, ByteBuffer scanBuffer)
+            throws IOException {
+        long position = from;
+        while (position < size) {
+            scanBuffer.clear();
+            int read = channel.read(scanBuffer, position);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (scanBuffer.get(i) == '\n') {
+                    return checkChunkLength(chunkStart, position + i + 1);
+                }
+            }
+            position += read;
+            checkChunkLength(chunkStart, position);
+        }
+        return checkChunkLength(chunkStart, size);
+    }
+
+    private static long checkChunkLength(long chunkStart, long end) throws IOException {
+        if (end - chunkStart >= Integer.MAX_VALUE) {
+            throw new IOException("line starting before offset " + end + " is too long to be mapped");
+        }
+        return end;
+    }
+
+    private static Worker await(Future<Worker> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("interrupted while loading", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof IOException ioException) {
+                throw ioException;
+            }
+            throw new IOException("worker failed", e.getCause());
+        }
+    }
+
+    private static final class Worker {
+        private final FileChannel channel;
+        private final List<long[]> chunks;
+        private final AtomicInteger nextChunk;
+        private final Murmur3fBloomFilter filter;
+        private long keyCount;
+
+        Worker(FileChannel channel, List<long[]> chunks, AtomicInteger nextChunk, Murmur3fBloomFilter filter) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.nextChunk = nextChunk;
+            this.filter = filter;
+        }
+
+        Worker call() throws IOException {
+            int index;
+            while ((index = nextChunk.getAndIncrement()) < chunks.size()) {
+                long[] chunk = chunks.get(index);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, chunk[0], chunk[1] - chunk[0]);
+                keyCount += hashLines(buffer);
+            }
+            return this;
+        }
+
+        private long hashLines(ByteBuffer buffer) {
+            long keys = 0;
+            int limit = buffer.limit();
+            int lineStart = 0;
+            for (int i = 0; i < limit; i++) {
+                if (buffer.get(i) == '\n') {
+                    keys += hashLine(buffer, lineStart, i);
+                    lineStart = i + 1;
+                }
+            }
+            return keys + hashLine(buffer, lineStart, limit);
+        }
+
+        private int hashLine(ByteBuffer buffer, int lineStart, int lineEnd) {
+            if (lineEnd > lineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            if (lineEnd == lineStart) {
+                return 0;
+            }
+            filter.put(buffer, lineStart, lineEnd - lineStart);
+            return 1;
+        }
+    }
+}
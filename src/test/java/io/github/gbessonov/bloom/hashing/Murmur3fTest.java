@@ -2,10 +2,13 @@ package io.github.gbessonov.bloom.hashing;
 
 import io.github.gbessonov.bloom.HashCode;
 import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
 import java.util.Arrays;
 import java.util.List;
 import java.util.stream.Stream;
@@ -69,6 +72,49 @@ public class Murmur3fTest {
         Assertions.assertEquals(expectedHash, actualHash);
     }
 
+    @ParameterizedTest
+    @MethodSource("hashingTestDataProvider")
+    public void byteBufferTest(int seed, long expectedHash1, long expectedHash2, String inputString) {
+        HashCode expectedHash = new Murmur3fHashCode(expectedHash1, expectedHash2);
+        byte[] bytes = ascii(inputString);
+
+        for (var order : List.of(ByteOrder.BIG_ENDIAN, ByteOrder.LITTLE_ENDIAN)) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(bytes.length + 6).order(order);
+            buffer.put(3, bytes);
+
+            var actualHash = (new Murmur3f(seed))
+                    .include(buffer, 3, bytes.length)
+                    .hash();
+
+            Assertions.assertEquals(expectedHash, actualHash);
+            Assertions.assertEquals(0, buffer.position());
+        }
+    }
+
+    @ParameterizedTest
+    @MethodSource("chunksTestDataProvider")
+    public void byteBufferChunksTest(int seed, long expectedHash1, long expectedHash2, List<String> inputStringChunks) {
+        HashCode expectedHash = new Murmur3fHashCode(expectedHash1, expectedHash2);
+
+        var hasher = (new Murmur3f(seed));
+        for (var chunk: inputStringChunks) {
+            byte[] bytes = ascii(chunk);
+            hasher.include(ByteBuffer.wrap(bytes), 0, bytes.length);
+        }
+        var actualHash = hasher.hash();
+
+        Assertions.assertEquals(expectedHash, actualHash);
+    }
+
+    @Test
+    public void byteBufferOutOfBoundsTest() {
+        ByteBuffer buffer = ByteBuffer.allocate(8);
+        var hasher = new Murmur3f();
+
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hasher.include(buffer, 0, -1));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hasher.include(buffer, -1, 2));
+        Assertions.assertThrows(IndexOutOfBoundsException.class, () -> hasher.include(buffer, 4, 5));
+    }
 
     static byte[] ascii(String string) {
         byte[] bytes = new byte[string.length()];
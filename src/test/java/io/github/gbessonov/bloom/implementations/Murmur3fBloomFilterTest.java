@@ -0,0 +1,139 @@
+package io.github.gbessonov.bloom.implementations;
+
+import io.github.gbessonov.bloom.implementation.Murmur3fBloomFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+public class Murmur3fBloomFilterTest {
+    @ParameterizedTest
+    @CsvSource({
+            "42",
+            "Hello world!",
+            "Ahoj",
+            "↓←☺"
+    })
+    public void PresenceTest(String value) {
+        var bloomFilter = new Murmur3fBloomFilter(1000, 0.01);
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        Assertions.assertFalse(bloomFilter.mightContain(bytes));
+
+        bloomFilter.put(bytes);
+        Assertions.assertTrue(bloomFilter.mightContain(bytes));
+    }
+
+    @Test
+    public void ByteBufferSliceMatchesByteArrayTest() {
+        var bloomFilter = new Murmur3fBloomFilter(1000, 0.01);
+        ByteBuffer buffer = ByteBuffer.wrap("foo\nbar baz\n".getBytes(StandardCharsets.UTF_8));
+
+        bloomFilter.put(buffer, 4, 7);
+
+        Assertions.assertTrue(bloomFilter.mightContain("bar baz".getBytes(StandardCharsets.UTF_8)));
+        Assertions.assertTrue(bloomFilter.mightContain(buffer, 4, 7));
+    }
+
+    @Test
+    public void MergeTest() {
+        var first = new Murmur3fBloomFilter(1000, 0.01);
+        var second = first.emptyCopy();
+        first.put(bytes("first"));
+        second.put(bytes("second"));
+
+        first.merge(second);
+
+        Assertions.assertTrue(first.mightContain(bytes("first")));
+        Assertions.assertTrue(first.mightContain(bytes("second")));
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> first.merge(new Murmur3fBloomFilter(10, 0.01)));
+    }
+
+    @Test
+    public void FppTest() {
+        int insertions = 10_000;
+        var bloomFilter = new Murmur3fBloomFilter(insertions, 0.01);
+        for (int i = 0; i < insertions; i++) {
+            bloomFilter.put(bytes("key-" + i));
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < insertions; i++) {
+            if (bloomFilter.mightContain(bytes("other-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        Assertions.assertTrue(falsePositives < insertions * 0.02, "false positives: " + falsePositives);
+        Assertions.assertEquals(insertions, bloomFilter.approximateElementCount(), insertions * 0.05);
+    }
+
+    @Test
+    public void SerializationTest() throws IOException {
+        var bloomFilter = new Murmur3fBloomFilter(1000, 0.01);
+        bloomFilter.put(bytes("hello"));
+
+        var deserialized = Murmur3fBloomFilter.fromBytes(bloomFilter.toBytes());
+
+        Assertions.assertTrue(deserialized.mightContain(bytes("hello")));
+        Assertions.assertEquals(bloomFilter.utilization(), deserialized.utilization());
+    }
+
+    @Test
+    public void StreamSerializationTest() throws IOException {
+        var first = new Murmur3fBloomFilter(1000, 0.01);
+        var second = new Murmur3fBloomFilter(50_000, 0.001);
+        first.put(bytes("first"));
+        second.put(bytes("second"));
+
+        var out = new ByteArrayOutputStream();
+        first.writeTo(out);
+        second.writeTo(out);
+        new DataOutputStream(out).writeInt(42);
+
+        var in = new DataInputStream(new ByteArrayInputStream(out.toByteArray()));
+        var firstRead = Murmur3fBloomFilter.readFrom(in);
+        var secondRead = Murmur3fBloomFilter.readFrom(in);
+
+        Assertions.assertTrue(firstRead.mightContain(bytes("first")));
+        Assertions.assertTrue(secondRead.mightContain(bytes("second")));
+        Assertions.assertEquals(second.utilization(), secondRead.utilization());
+        Assertions.assertEquals(42, in.readInt());
+        Assertions.assertEquals(-1, in.read());
+    }
+
+    @Test
+    public void CorruptHeaderTest() throws IOException {
+        var out = new ByteArrayOutputStream();
+        var header = new DataOutputStream(out);
+        header.writeLong((long) (Integer.MAX_VALUE - 8) * Long.SIZE);
+        header.writeInt(7);
+        header.writeLong(0);
+        byte[] truncated = out.toByteArray();
+
+        Assertions.assertThrows(IOException.class, () -> Murmur3fBloomFilter.fromBytes(truncated));
+        Assertions.assertThrows(EOFException.class,
+                () -> Murmur3fBloomFilter.readFrom(new ByteArrayInputStream(truncated)));
+        Assertions.assertThrows(IOException.class,
+                () -> Murmur3fBloomFilter.readFrom(new ByteArrayInputStream(new byte[12])));
+    }
+
+    @Test
+    public void TooLargeFilterTest() {
+        Assertions.assertThrows(IllegalArgumentException.class,
+                () -> new Murmur3fBloomFilter(100_000_000_000L, 0.01));
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,89 @@
+package io.github.gbessonov.bloom.loader;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Measures how {@link BulkLoader} scales with the number of worker threads.
+ *
+ * <p>Not run by the test suite. Generates a key file, loads it once as a warm-up and
+ * then {@code RUNS} times per thread count, printing the median time and the speedup
+ * over one thread:
+ *
+ * <pre>
+ * mvn -q test-compile
+ * java -Xmx16g -cp target/classes:target/test-classes \
+ *     io.github.gbessonov.bloom.loader.BulkLoaderBenchmark [keyCount] [fpp] [threads...]
+ * </pre>
+ *
+ * <p>Thread counts default to 1, 2, 4, ... up to the number of available processors.
+ */
+public final class BulkLoaderBenchmark {
+    private static final int RUNS = 3;
+
+    private BulkLoaderBenchmark() {
+    }
+
+    public static void main(String[] args) throws IOException {
+        long keyCount = args.length > 0 ? Long.parseLong(args[0]) : 100_000_000L;
+        double fpp = args.length > 1 ? Double.parseDouble(args[1]) : 0.01;
+        List<Integer> threadCounts = new ArrayList<>();
+        for (int i = 2; i < args.length; i++) {
+            threadCounts.add(Integer.parseInt(args[i]));
+        }
+        if (threadCounts.isEmpty()) {
+            int processors = Runtime.getRuntime().availableProcessors();
+            for (int threads = 1; threads < processors; threads *= 2) {
+                threadCounts.add(threads);
+            }
+            threadCounts.add(processors);
+        }
+
+        Path input = Files.createTempFile("bloom-benchmark", ".txt");
+        try {
+            writeKeys(input, keyCount);
+            System.out.printf("Processors: %d, keys: %,d, input: %,.1f MiB, fpp: %s%n",
+                    Runtime.getRuntime().availableProcessors(), keyCount,
+                    Files.size(input) / (1024.0 * 1024.0), fpp);
+
+            BulkLoader.load(input, keyCount, fpp, threadCounts.get(0));
+
+            double baseline = 0;
+            System.out.println("threads  workers  median s    keys/s        MiB/s   speedup");
+            for (int threads : threadCounts) {
+                double[] seconds = new double[RUNS];
+                BulkLoader.Result result = null;
+                for (int run = 0; run < RUNS; run++) {
+                    result = BulkLoader.load(input, keyCount, fpp, threads);
+                    seconds[run] = result.elapsed().toNanos() / 1e9;
+                }
+                Arrays.sort(seconds);
+                double median = seconds[RUNS / 2];
+                if (baseline == 0) {
+                    baseline = median;
+                }
+                System.out.printf("%7d  %7d  %8.3f  %,12.0f  %8.1f  %7.2fx%n",
+                        threads, result.workerCount(), median, keyCount / median,
+                        result.byteCount() / (1024.0 * 1024.0) / median, baseline / median);
+            }
+        } finally {
+            Files.deleteIfExists(input);
+        }
+    }
+
+    private static void writeKeys(Path path, long keyCount) throws IOException {
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(path), 1 << 20)) {
+            for (long i = 0; i < keyCount; i++) {
+                out.write(("user-" + i + "-" + Long.toHexString(i * 0x9E3779B97F4A7C15L) + "\n")
+                        .getBytes(StandardCharsets.US_ASCII));
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package io.github.gbessonov.bloom.loader;
+
+import io.github.gbessonov.bloom.implementation.Murmur3fBloomFilter;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.BufferedInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.Writer;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+public class BulkLoaderTest {
+    private static final int KEY_COUNT = 200_000;
+
+    @TempDir
+    Path directory;
+
+    @Test
+    public void LoadTest() throws IOException {
+        Path input = writeKeys(directory.resolve("keys.txt"));
+        Path output = directory.resolve("keys.bloom");
+
+        var result = BulkLoader.load(input, output, KEY_COUNT, 0.01, 4);
+
+        Assertions.assertEquals(KEY_COUNT, result.keyCount());
+        Assertions.assertEquals(Files.size(input), result.byteCount());
+        Murmur3fBloomFilter filter;
+        try (InputStream in = new BufferedInputStream(Files.newInputStream(output))) {
+            filter = Murmur3fBloomFilter.readFrom(in);
+        }
+        for (int i = 0; i < KEY_COUNT; i++) {
+            Assertions.assertTrue(filter.mightContain(key(i).getBytes(StandardCharsets.UTF_8)), key(i));
+        }
+        Assertions.assertFalse(filter.mightContain(new byte[0]));
+    }
+
+    @Test
+    public void CarriageReturnAndEmptyLinesTest() throws IOException {
+        Path input = directory.resolve("crlf.txt");
+        Files.writeString(input, "alpha\r\n\r\n\nbeta\r\ngamma", StandardCharsets.UTF_8);
+
+        var result = BulkLoader.load(input, 100, 0.01, 2);
+
+        Assertions.assertEquals(3, result.keyCount());
+        Assertions.assertEquals(1, result.workerCount());
+        for (var key : new String[]{"alpha", "beta", "gamma"}) {
+            Assertions.assertTrue(result.filter().mightContain(key.getBytes(StandardCharsets.UTF_8)), key);
+        }
+    }
+
+    @Test
+    public void WorkerLimitTest() {
+        long filterBytes = 2_400L << 20;
+
+        Assertions.assertEquals(1, BulkLoader.workerLimit(filterBytes, 0));
+        Assertions.assertEquals(1, BulkLoader.workerLimit(filterBytes, filterBytes));
+        Assertions.assertEquals(4, BulkLoader.workerLimit(filterBytes, filterBytes * 3 + (64L << 20)));
+        Assertions.assertEquals(Integer.MAX_VALUE, BulkLoader.workerLimit(1, Long.MAX_VALUE));
+    }
+
+    @Test
+    public void SplitOnLineBoundariesTest() throws IOException {
+        Path input = writeKeys(directory.resolve("keys.txt"));
+
+        try (FileChannel channel = FileChannel.open(input, StandardOpenOption.READ)) {
+            long size = channel.size();
+            var chunks = BulkLoader.split(channel, size, 8);
+
+            Assertions.assertTrue(chunks.size() > 1);
+            long expectedStart = 0;
+            for (long[] chunk : chunks) {
+                Assertions.assertEquals(expectedStart, chunk[0]);
+                if (chunk[1] < size) {
+                    var lastByte = ByteBuffer.allocate(1);
+                    channel.read(lastByte, chunk[1] - 1);
+                    Assertions.assertEquals('\n', lastByte.get(0));
+                }
+                expectedStart = chunk[1];
+            }
+            Assertions.assertEquals(size, expectedStart);
+        }
+    }
+
+    private static Path writeKeys(Path path) throws IOException {
+        try (Writer writer = Files.newBufferedWriter(path, StandardCharsets.UTF_8)) {
+            for (int i = 0; i < KEY_COUNT; i++) {
+                writer.write(key(i));
+                writer.write('\n');
+            }
+        }
+        return path;
+    }
+
+    private static String key(int i) {
+        return "user-" + i + "-" + Integer.toHexString(i * 31);
+    }
+}